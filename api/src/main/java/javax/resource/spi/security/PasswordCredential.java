@@ -16,6 +16,7 @@
 
 package javax.resource.spi.security;
 
+import java.util.Arrays;
 import javax.resource.spi.ManagedConnectionFactory;
 
 /**
@@ -118,7 +119,7 @@ public final class PasswordCredential implements java.io.Serializable {
 
     PasswordCredential pc = (PasswordCredential)other;
 
-    if (!(userName.equals(pc.userName)))
+    if (userName == null ? pc.userName != null : !userName.equals(pc.userName))
       return false;
 
     if (password.length != pc.password.length)
@@ -140,12 +141,7 @@ public final class PasswordCredential implements java.io.Serializable {
   int hashCode() {
     int userNameHash = userName != null ? userName.hashCode() : 0;
 
-      int passwordHash = 0;
-      for (char passChar : password) {
-          passwordHash += passChar;
-      }
-
-    return userNameHash + passwordHash;
+    return 31 * userNameHash + Arrays.hashCode(password);
   }
 
 }
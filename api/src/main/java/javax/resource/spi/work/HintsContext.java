@@ -37,7 +37,21 @@ public class HintsContext implements WorkContext {
 	 */
 	private static final long serialVersionUID = 7956353628297167255L;
 	
+	/**
+	 * A standard hint that provides a name for the <code>Work</code>
+	 * instance. The hint value is a <code>java.lang.String</code> and may be
+	 * used by the <code>WorkManager</code> for logging and debugging
+	 * purposes.
+	 */
 	public static final String NAME_HINT = "javax.resource.Name";
+
+	/**
+	 * A standard hint that indicates whether the <code>Work</code> instance
+	 * is long-running. The hint value is a <code>java.lang.Boolean</code>.
+	 * A <code>WorkManager</code> may use this hint to execute long-running
+	 * <code>Work</code> on threads that are not shared with short-lived
+	 * <code>Work</code>, so that the latter does not wait behind it.
+	 */
 	public static final String LONGRUNNING_HINT = "javax.resource.LongRunning";
 
 	protected String description = "Hints Context";
@@ -20,10 +20,16 @@ import javax.resource.spi.RetryableException;
 
 /**
  * A subclass of the <code>WorkRejectedException</code> that 
- * indicates that the the service unavailability is transient. It is thrown in
- * situations where the previously failed operation might be able to succeed if the 
+ * indicates that the service unavailability is transient. It is thrown in
+ * situations where the previously failed operation might be able to succeed if the
  * resource adapter performs some recovery steps and retries the operation.
- * 
+ *
+ * <p>For example, a <code>WorkManager</code> that is temporarily unable to
+ * accept more <code>Work</code> instances, because its capacity is
+ * exhausted, may reject a submission with this exception instead of queueing
+ * it. The resource adapter may then reduce its inflow and resubmit the
+ * <code>Work</code> instance later.
+ *
  * @since 1.6
  */
 public class RetryableWorkRejectedException extends WorkRejectedException
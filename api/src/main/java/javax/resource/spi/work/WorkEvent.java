@@ -44,7 +44,7 @@ public class WorkEvent extends EventObject {
     private static final int TYPE_IDX = 0;
     private static final int WORK_IDX = 1;
     private static final int EXCPEPTION_IDX = 2;
-    private static final int DURATION_IDX = 2;
+    private static final int DURATION_IDX = 3;
 
     /**
      * Indicates <code>Work</code> instance has been accepted.
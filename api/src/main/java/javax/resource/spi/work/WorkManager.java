@@ -44,7 +44,7 @@ import java.lang.Throwable;
  * <code>Work</code> execution must be started within the specified  
  * duration (not a  real-time guarantee), failing which a 
  * <code>WorkRejectedException</code> set to an error code 
- * (<code>WorkRejected.TIMED_OUT</code>) is thrown. </li>
+ * (<code>WorkException.START_TIMED_OUT</code>) is thrown. </li>
  *
  * <li> work rejected: The <code>Work</code> instance has  been rejected. 
  * The <code>Work</code> instance could be rejected during <code>Work</code>
@@ -126,7 +126,7 @@ public interface WorkManager {
      * within which the execution of the <code>Work</code> instance must
      * start. Otherwise, the <code>Work</code> instance is rejected with a
      * <code>WorkRejectedException</code> set to an appropriate error code 
-     * (<code>WorkRejectedException.TIMED_OUT</code>). Note, this
+     * (<code>WorkException.START_TIMED_OUT</code>). Note, this
      * does not offer real-time guarantees.
      *
      * @param execContext an object containing the execution
@@ -185,7 +185,7 @@ public interface WorkManager {
      * within which the execution of the <code>Work</code> instance must
      * start. Otherwise, the <code>Work</code> instance is rejected with a
      * <code>WorkRejectedException</code> set to an appropriate error code 
-     * (<code>WorkRejectedException.TIMED_OUT</code>). Note, this
+     * (<code>WorkException.START_TIMED_OUT</code>). Note, this
      * does not offer real-time guarantees.
      *
      * @param execContext an object containing the execution
@@ -239,7 +239,7 @@ public interface WorkManager {
      * within which the execution of the <code>Work</code> instance must
      * start. Otherwise, the <code>Work</code> instance is rejected with a
      * <code>WorkRejectedException</code> set to an appropriate error code 
-     * (<code>WorkRejectedException.TIMED_OUT</code>). Note, this
+     * (<code>WorkException.START_TIMED_OUT</code>). Note, this
      * does not offer real-time guarantees.
      *
      * @param execContext an object containing the execution